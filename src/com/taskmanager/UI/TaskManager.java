@@ -2,7 +2,14 @@ package com.taskmanager.UI;
 
 import com.taskmanager.core.Task;
 import com.taskmanager.core.TaskList;
+import com.taskmanager.io.TaskExporter;
+import com.taskmanager.io.TaskFormat;
+import com.taskmanager.io.TaskImporter;
 import com.taskmanager.util.IllegalCurrentStateException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.Scanner;
 
 public class TaskManager {
@@ -17,7 +24,9 @@ public class TaskManager {
             3. Update Task Progress (u)
             4. Get Task (g)
             5. Show All Tasks (s/p)
-            6. Quit (Q/Quit/q/quit)
+            6. Import Tasks (i)
+            7. Export Tasks (e)
+            8. Quit (Q/Quit/q/quit)
             """;
 
     private static TaskList tasks = new TaskList();
@@ -58,6 +67,16 @@ public class TaskManager {
                     displayMenu();
                     input = scanner.nextLine();
                 }
+                case "i" -> {
+                    importTasksToManager(tasks);
+                    displayMenu();
+                    input = scanner.nextLine();
+                }
+                case "e" -> {
+                    exportTasksFromManager(tasks);
+                    displayMenu();
+                    input = scanner.nextLine();
+                }
                 default -> {
                     System.out.println("Please enter a valid option\n");
                     displayMenu();
@@ -153,6 +172,60 @@ public class TaskManager {
         }
     }
 
+    private static void importTasksToManager(TaskList taskList) {
+        try {
+            Path path = readPath();
+            int added = new TaskImporter(TaskFormat.fromPath(path))
+                    .importTasks(path, taskList);
+            System.out.printf("%d task(s) imported!\n\n", added);
+        } catch (IOException e) {
+            System.out.println("Could not read file: " + e.getMessage());
+            System.out.println("No tasks were imported.\n");
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            System.out.println("No tasks were imported.\n");
+        }
+    }
+
+    private static void exportTasksFromManager(TaskList taskList) {
+        try {
+            Path path = readPath();
+            TaskFormat format = TaskFormat.fromPath(path);
+
+            if (Files.exists(path)) {
+                System.out.printf("""
+
+                        %s already exists.
+                        Overwrite it? (Y/N)
+                        """, path);
+                System.out.print("Y/N: ");
+                String input = scanner.nextLine();
+
+                if (!input.equalsIgnoreCase("y")) {
+                    System.out.println("Export cancelled!\n");
+                    return;
+                }
+            }
+
+            int written = new TaskExporter(format)
+                    .exportTasks(taskList, path);
+            System.out.printf("%d task(s) exported!\n\n", written);
+        } catch (IOException e) {
+            System.out.println("Could not write file: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    private static Path readPath() {
+        System.out.print("\nPlease enter file path (.csv/.jsonl): ");
+        try {
+            return Path.of(scanner.nextLine().trim());
+        } catch (InvalidPathException e) {
+            throw new IllegalArgumentException("Invalid file path!");
+        }
+    }
+
     private static Task createTask() {
         return createTask(false);
     }
@@ -2,8 +2,10 @@ package com.taskmanager.core;
 
 import com.taskmanager.util.TaskSelector;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The {@code TaskList} class represents a list of {@code Task} objects. The
@@ -45,6 +47,35 @@ public class TaskList implements TaskSelector<TaskList> {
         } else throw new IllegalArgumentException("Task already in list!");
     }
 
+    /**
+     * A method to add every task produced by {@code tasks} to the {@code
+     * taskList}.
+     * <p>
+     * Unlike {@link #addTask(Task)}, tasks that are already in the {@code
+     * taskList} are skipped instead of causing an exception to be thrown.
+     * Duplicates are checked against an index built once per call, so bulk
+     * inserts take linear time rather than scanning the list for every task.
+     * </p>
+     * @param tasks the tasks to be added
+     * @return the number of tasks that were added
+     */
+    public int addTasks(Iterator<? extends Task> tasks) {
+        Set<TaskKey> keys = new HashSet<>();
+        for (Task task : taskList) {
+            keys.add(TaskKey.of(task));
+        }
+
+        int added = 0;
+        while (tasks.hasNext()) {
+            Task t = tasks.next();
+            if (keys.add(TaskKey.of(t))) {
+                taskList.add(t);
+                added++;
+            }
+        }
+        return added;
+    }
+
     /**
      * A method to remove a task from the {@code taskList}.
      * <p>
@@ -143,4 +174,15 @@ public class TaskList implements TaskSelector<TaskList> {
         }
         return false;
     }
+
+    /**
+     * The fields compared by {@link Task#equals(Task task)}, used to look up
+     * duplicate tasks without scanning the {@code taskList}.
+     */
+    private record TaskKey(String name, int priority, CurrentState state) {
+        static TaskKey of(Task t) {
+            return new TaskKey(t.getName(), t.getPriority(),
+                    t.getCurrentState());
+        }
+    }
 }
\ No newline at end of file
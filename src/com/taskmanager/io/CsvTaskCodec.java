@@ -0,0 +1,209 @@
+package com.taskmanager.io;
+
+import com.taskmanager.core.Task;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code CsvTaskCodec} class reads and writes tasks as CSV records.
+ *
+ * <p>
+ * Records have the columns {@code name}, {@code details}, {@code priority}
+ * and {@code state}, in that order. The {@code priority} and {@code state}
+ * columns may be left empty or left out, in which case the task gets the
+ * same defaults as a newly created {@code Task}. A header row is written on
+ * export and skipped on import if it is present.
+ * </p>
+ *
+ * @author mac
+ * @see     TaskFormat#CSV
+ * @since 1.1
+ */
+class CsvTaskCodec implements TaskCodec {
+    private static final String[] HEADER =
+            {"name", "details", "priority", "state"};
+
+    //TaskCodec OPERATIONS
+
+    /**
+     * A method to find where the last complete record in {@code buf} ends.
+     * <p>
+     * Quoted fields may contain line breaks, so the whole buffer is scanned
+     * to track whether each line break is inside quotes or not. Escaped
+     * quotes ({@code ""}) flip the state twice and so need no special case.
+     * </p>
+     */
+    @Override
+    public int lastBoundary(byte[] buf, int len) {
+        boolean quoted = false;
+        int boundary = -1;
+        for (int i = 0; i < len; i++) {
+            if (buf[i] == '"') {
+                quoted = !quoted;
+            } else if (buf[i] == '\n' && !quoted) {
+                boundary = i + 1;
+            }
+        }
+        return boundary;
+    }
+
+    @Override
+    public List<Task> parseChunk(String chunk, long offset) {
+        List<Task> tasks = new ArrayList<>();
+        List<String> fields = new ArrayList<>(4);
+        StringBuilder field = new StringBuilder();
+
+        int i = (offset == 0 && chunk.startsWith("\uFEFF")) ? 1 : 0;
+        boolean checkHeader = (offset == 0);
+        while (i < chunk.length()) {
+            int start = i;
+            try {
+                i = readRecord(chunk, start, fields, field);
+
+                if (checkHeader) {
+                    checkHeader = false;
+                    if (isHeader(fields)) {
+                        continue;
+                    }
+                }
+                if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                    continue;
+                }
+                tasks.add(toTask(fields));
+            } catch (IllegalArgumentException e) {
+                throw TaskCodec.recordError(e, chunk, start, offset);
+            }
+        }
+        return tasks;
+    }
+
+    @Override
+    public void writeHeader(Writer out) throws IOException {
+        out.write(String.join(",", HEADER));
+        out.write('\n');
+    }
+
+    @Override
+    public void write(Task task, Writer out) throws IOException {
+        writeField(task.getName(), out);
+        out.write(',');
+        writeField(task.getDetails(), out);
+        out.write(',');
+        TaskCodec.writePriority(task.getPriority(), out);
+        out.write(',');
+        out.write(task.getCurrentState().name());
+        out.write('\n');
+    }
+
+    //HELPER METHODS
+
+    /**
+     * A private method to read one record starting at {@code start} into
+     * {@code fields}.
+     *
+     * @param s the chunk being parsed
+     * @param start the index of the first character of the record
+     * @param fields the list that the fields of the record are added to
+     * @param field a buffer reused for every field
+     * @return the index of the first character after the record
+     * @throws IllegalArgumentException if a quoted field is never closed
+     */
+    private static int readRecord(String s, int start, List<String> fields,
+                                  StringBuilder field) {
+        fields.clear();
+        field.setLength(0);
+
+        boolean quoted = false;
+        int i = start;
+        int n = s.length();
+        while (i < n) {
+            char c = s.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < n && s.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field in "
+                    + "CSV record");
+        }
+        fields.add(field.toString());
+        return i;
+    }
+
+    private static Task toTask(List<String> fields) {
+        if (fields.size() < 2 || fields.size() > 4) {
+            throw new IllegalArgumentException("Expected name, details, "
+                    + "priority and state in CSV record");
+        }
+        String priority = (fields.size() > 2) ? fields.get(2) : "";
+        String state = (fields.size() > 3) ? fields.get(3) : "";
+
+        return TaskCodec.toTask(fields.get(0), fields.get(1),
+                TaskCodec.parsePriority(priority),
+                TaskCodec.parseState(state));
+    }
+
+    private static boolean isHeader(List<String> fields) {
+        if (fields.size() != HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; i++) {
+            if (!fields.get(i).trim().equalsIgnoreCase(HEADER[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A private method to write a field, quoting it only if it contains a
+     * character that would otherwise end the field or the record.
+     */
+    private static void writeField(String value, Writer out)
+            throws IOException {
+        if (!needsQuotes(value)) {
+            out.write(value);
+            return;
+        }
+
+        out.write('"');
+        int from = 0;
+        int quote;
+        while ((quote = value.indexOf('"', from)) >= 0) {
+            out.write(value, from, quote + 1 - from);
+            out.write('"');
+            from = quote + 1;
+        }
+        out.write(value, from, value.length() - from);
+        out.write('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
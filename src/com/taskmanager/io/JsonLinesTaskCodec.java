@@ -0,0 +1,338 @@
+package com.taskmanager.io;
+
+import com.taskmanager.core.Task;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code JsonLinesTaskCodec} class reads and writes tasks as JSON lines,
+ * with one object per line.
+ *
+ * <p>
+ * Each object has the keys {@code name}, {@code details}, {@code priority}
+ * and {@code state}. As with CSV, {@code details}, {@code priority} and
+ * {@code state} may be left out or set to {@code null}, and any other keys
+ * are ignored. For example:
+ * <blockquote><pre>
+ *     {"name":"myTask","details":"None","priority":3,"state":"NOT_STARTED"}
+ * </pre></blockquote>
+ * </p>
+ *
+ * @author mac
+ * @see     TaskFormat#JSON_LINES
+ * @since 1.1
+ */
+class JsonLinesTaskCodec implements TaskCodec {
+
+    //TaskCodec OPERATIONS
+
+    /**
+     * A method to find where the last complete record in {@code buf} ends.
+     * <p>
+     * JSON strings cannot contain raw line breaks, so this is just the last
+     * line break in the buffer.
+     * </p>
+     */
+    @Override
+    public int lastBoundary(byte[] buf, int len) {
+        for (int i = len - 1; i >= 0; i--) {
+            if (buf[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public List<Task> parseChunk(String chunk, long offset) {
+        List<Task> tasks = new ArrayList<>();
+        int start = (offset == 0 && chunk.startsWith("\uFEFF")) ? 1 : 0;
+        while (start < chunk.length()) {
+            int end = chunk.indexOf('\n', start);
+            if (end < 0) {
+                end = chunk.length();
+            }
+            try {
+                Task task = new RecordParser(chunk, start, end).parse();
+                if (task != null) {
+                    tasks.add(task);
+                }
+            } catch (IllegalArgumentException e) {
+                throw TaskCodec.recordError(e, chunk, start, offset);
+            }
+            start = end + 1;
+        }
+        return tasks;
+    }
+
+    @Override
+    public void writeHeader(Writer out) {
+        //JSON lines has no header
+    }
+
+    @Override
+    public void write(Task task, Writer out) throws IOException {
+        out.write("{\"name\":");
+        writeString(task.getName(), out);
+        out.write(",\"details\":");
+        writeString(task.getDetails(), out);
+        out.write(",\"priority\":");
+        TaskCodec.writePriority(task.getPriority(), out);
+        out.write(",\"state\":\"");
+        out.write(task.getCurrentState().name());
+        out.write("\"}\n");
+    }
+
+    //HELPER METHODS
+
+    /**
+     * A private method to write a JSON string, escaping characters in place
+     * instead of building an escaped copy of {@code value}.
+     */
+    private static void writeString(String value, Writer out)
+            throws IOException {
+        out.write('"');
+        int from = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '"' && c != '\\' && c >= 0x20) {
+                continue;
+            }
+
+            out.write(value, from, i - from);
+            from = i + 1;
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    out.write("\\u00");
+                    out.write(Character.forDigit(c >> 4, 16));
+                    out.write(Character.forDigit(c & 0xF, 16));
+                }
+            }
+        }
+        out.write(value, from, value.length() - from);
+        out.write('"');
+    }
+
+    /**
+     * A parser for a single line holding one JSON object. Only the values of
+     * ignored keys may be nested objects or arrays.
+     */
+    private static final class RecordParser {
+        private final String s;
+        private final int end;
+        private int pos;
+
+        RecordParser(String s, int start, int end) {
+            this.s = s;
+            this.end = (end > start && s.charAt(end - 1) == '\r') ?
+                    end - 1 : end;
+            this.pos = start;
+        }
+
+        /**
+         * @return the task described by the line, or {@code null} if the
+         * line is blank
+         * @throws IllegalArgumentException if the line is not a valid record
+         */
+        Task parse() {
+            skipWhitespace();
+            if (pos == end) {
+                return null;
+            }
+
+            String name = null;
+            String details = "";
+            String priority = "";
+            String state = "";
+
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+            } else {
+                boolean more = true;
+                while (more) {
+                    skipWhitespace();
+                    String key = readString();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    switch (key) {
+                        case "name" -> name = readString();
+                        case "details" ->
+                                details = skipLiteral("null") ?
+                                        "" : readString();
+                        case "priority" ->
+                                priority = skipLiteral("null") ?
+                                        "" : readNumber();
+                        case "state" ->
+                                state = skipLiteral("null") ?
+                                        "" : readString();
+                        default -> skipValue();
+                    }
+                    skipWhitespace();
+                    more = (peek() == ',');
+                    if (more) {
+                        pos++;
+                    } else {
+                        expect('}');
+                    }
+                }
+            }
+            skipWhitespace();
+            if (pos != end) {
+                throw error("Unexpected characters after object");
+            }
+            if (name == null) {
+                throw error("Missing \"name\"");
+            }
+
+            return TaskCodec.toTask(name, details,
+                    TaskCodec.parsePriority(priority),
+                    TaskCodec.parseState(state));
+        }
+
+        private String readString() {
+            expect('"');
+            StringBuilder sb = null;
+            int from = pos;
+            while (pos < end) {
+                char c = s.charAt(pos);
+                if (c == '"') {
+                    String value = (sb == null) ?
+                            s.substring(from, pos) :
+                            sb.append(s, from, pos).toString();
+                    pos++;
+                    return value;
+                } else if (c == '\\') {
+                    if (sb == null) {
+                        sb = new StringBuilder();
+                    }
+                    sb.append(s, from, pos);
+                    pos++;
+                    sb.append(readEscape());
+                    from = pos;
+                } else {
+                    pos++;
+                }
+            }
+            throw error("Unterminated string");
+        }
+
+        private char readEscape() {
+            char c = next();
+            switch (c) {
+                case '"', '\\', '/' -> {return c;}
+                case 'b' -> {return '\b';}
+                case 'f' -> {return '\f';}
+                case 'n' -> {return '\n';}
+                case 'r' -> {return '\r';}
+                case 't' -> {return '\t';}
+                case 'u' -> {
+                    if (pos + 4 > end) {
+                        throw error("Invalid unicode escape");
+                    }
+                    int u = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(s.charAt(pos++), 16);
+                        if (digit < 0) {
+                            throw error("Invalid unicode escape");
+                        }
+                        u = (u << 4) | digit;
+                    }
+                    return (char) u;
+                }
+                default -> throw error("Invalid escape");
+            }
+        }
+
+        private String readNumber() {
+            int from = pos;
+            while (pos < end && "+-.eE0123456789".indexOf(s.charAt(pos)) >= 0) {
+                pos++;
+            }
+            if (from == pos) {
+                throw error("Expected a number");
+            }
+            return s.substring(from, pos);
+        }
+
+        private void skipValue() {
+            char c = peek();
+            if (c == '"') {
+                readString();
+            } else if (c == '{' || c == '[') {
+                skipNested();
+            } else if (c == '-' || Character.isDigit(c)) {
+                readNumber();
+            } else if (!skipLiteral("true") && !skipLiteral("false")
+                    && !skipLiteral("null")) {
+                throw error("Unsupported value");
+            }
+        }
+
+        /**
+         * A private method to skip a nested object or array by counting
+         * brackets. Strings are read as a whole so that brackets inside them
+         * are not counted.
+         */
+        private void skipNested() {
+            int depth = 0;
+            do {
+                char c = peek();
+                if (c == '"') {
+                    readString();
+                    continue;
+                }
+                next();
+                if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                }
+            } while (depth > 0);
+        }
+
+        private boolean skipLiteral(String literal) {
+            if (s.startsWith(literal, pos) && pos + literal.length() <= end) {
+                pos += literal.length();
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (pos < end && Character.isWhitespace(s.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private void expect(char c) {
+            if (next() != c) {
+                throw error("Expected '" + c + "'");
+            }
+        }
+
+        private char next() {
+            if (pos >= end) {
+                throw error("Unexpected end of line");
+            }
+            return s.charAt(pos++);
+        }
+
+        private char peek() {
+            return (pos < end) ? s.charAt(pos) : '\0';
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " in JSON record");
+        }
+    }
+}
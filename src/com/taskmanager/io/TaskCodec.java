@@ -0,0 +1,133 @@
+package com.taskmanager.io;
+
+import com.taskmanager.core.CurrentState;
+import com.taskmanager.core.Task;
+import com.taskmanager.util.IllegalCurrentStateException;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Represents the reading and writing of tasks in a single {@link TaskFormat}.
+ *
+ * <p>
+ * Implementations must be stateless, since chunks of the same file are
+ * parsed on several threads at once.
+ * </p>
+ *
+ * @author mac
+ * @see     TaskFormat
+ * @since 1.1
+ */
+interface TaskCodec {
+    /**
+     * A method to find where the last complete record in {@code buf} ends.
+     * <p>
+     * {@code buf} always starts at the beginning of a record.
+     * </p>
+     * @param buf the bytes read so far
+     * @param len the number of valid bytes in {@code buf}
+     * @return the index just past the last record terminator, or {@code -1}
+     * if {@code buf} does not contain a complete record
+     */
+    int lastBoundary(byte[] buf, int len);
+
+    /**
+     * A method to parse every record in {@code chunk} into a {@code Task}.
+     *
+     * @param chunk one or more complete records
+     * @param offset the byte offset of {@code chunk} in the file, which is
+     * {@code 0} for the start of the file
+     * @return the tasks in the order they appear in {@code chunk}
+     * @throws IllegalArgumentException if a record is malformed or does not
+     * describe a valid task
+     */
+    List<Task> parseChunk(String chunk, long offset);
+
+    void writeHeader(Writer out) throws IOException;
+
+    void write(Task task, Writer out) throws IOException;
+
+    //HELPER METHODS
+
+    /**
+     * A method to create a task from the fields of a record, using the same
+     * checks and defaults as the {@code Task} constructors.
+     *
+     * @param name the name of the task
+     * @param details the details of the task
+     * @param priority the priority level of the task
+     * @param state the current state of the task
+     * @return the new task
+     * @throws IllegalArgumentException if the fields do not describe a valid
+     * task
+     */
+    static Task toTask(String name, String details, int priority,
+                       CurrentState state) {
+        Task task = new Task(name, details.isEmpty() ? "None" : details,
+                priority);
+        if (state != CurrentState.NOT_STARTED) {
+            try {
+                task.setCurrentState(state);
+            } catch (IllegalCurrentStateException e) {
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+        }
+        return task;
+    }
+
+    static int parsePriority(String priority) {
+        if (priority.isEmpty()) {
+            return 1;
+        }
+        try {
+            return Integer.parseInt(priority.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid priority: "
+                    + priority);
+        }
+    }
+
+    static CurrentState parseState(String state) {
+        if (state.isEmpty()) {
+            return CurrentState.NOT_STARTED;
+        }
+        try {
+            return CurrentState.valueOf(state.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid state: " + state);
+        }
+    }
+
+    /**
+     * A method to add the position and the start of a record to an error
+     * found while parsing it, so that the record can be found in the file.
+     *
+     * @param e the error found while parsing the record
+     * @param chunk the chunk being parsed
+     * @param start the index of the first character of the record
+     * @param offset the byte offset of {@code chunk} in the file
+     * @return an exception describing the error and the record
+     */
+    static IllegalArgumentException recordError(IllegalArgumentException e,
+                                                String chunk, int start,
+                                                long offset) {
+        long position = offset + chunk.substring(0, start)
+                .getBytes(StandardCharsets.UTF_8).length;
+        int lineEnd = chunk.indexOf('\n', start);
+        int end = Math.min(start + 40,
+                (lineEnd < 0) ? chunk.length() : lineEnd);
+        return new IllegalArgumentException("%s (record at byte %d: %s)"
+                .formatted(e.getMessage(), position,
+                        chunk.substring(start, end).strip()), e);
+    }
+
+    /**
+     * A method to write a priority without creating a string, which is
+     * possible since valid priorities are always a single digit.
+     */
+    static void writePriority(int priority, Writer out) throws IOException {
+        out.write('0' + priority);
+    }
+}
@@ -0,0 +1,80 @@
+package com.taskmanager.io;
+
+import com.taskmanager.core.Task;
+import com.taskmanager.core.TaskList;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * The {@code TaskExporter} class writes the tasks in a {@code TaskList} to a
+ * file.
+ *
+ * <p>
+ * Tasks are written field by field straight into a buffered writer, so no
+ * intermediate string is built for each task. Files written by this class
+ * can be read back with a {@link TaskImporter} of the same format.
+ * </p>
+ *
+ * @author mac
+ * @see     TaskFormat
+ * @see     TaskImporter
+ * @since 1.1
+ */
+public class TaskExporter {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final TaskCodec codec;
+
+    //CONSTRUCTOR
+    public TaskExporter(TaskFormat format) {
+        this.codec = format.codec();
+    }
+
+    //EXPORT OPERATIONS
+
+    /**
+     * A method to write every task in {@code taskList} to {@code target}.
+     * <p>
+     * The tasks are written to a temporary file next to {@code target}, which
+     * then replaces {@code target}. If the export fails, an existing {@code
+     * target} is left as it was.
+     * </p>
+     * @param taskList the tasks to be exported
+     * @param target the file to be written
+     * @return the number of tasks written
+     * @throws IOException if {@code target} cannot be written
+     */
+    public int exportTasks(TaskList taskList, Path target) throws IOException {
+        Path temp = Files.createTempFile(
+                target.toAbsolutePath().getParent(), ".export", ".tmp");
+        try {
+            int written = 0;
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                    Files.newOutputStream(temp), StandardCharsets.UTF_8),
+                    BUFFER_SIZE)) {
+                codec.writeHeader(out);
+                for (Task task : taskList.getTaskList()) {
+                    codec.write(task, out);
+                    written++;
+                }
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return written;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.taskmanager.io;
+
+import java.nio.file.Path;
+
+/**
+ * The {@code TaskFormat} class represents the file formats that a {@code
+ * TaskList} can be imported from and exported to.
+ *
+ * <p>
+ * There are two supported formats:
+ * <ul>
+ *     <li> {@code CSV}: One task per record with the columns {@code name},
+ *     {@code details}, {@code priority} and {@code state}. Fields containing
+ *     commas, quotes or line breaks are quoted as described in RFC 4180.
+ *     </li>
+ *     <li> {@code JSON_LINES}: One JSON object per line with the keys {@code
+ *     name}, {@code details}, {@code priority} and {@code state}.
+ *     </li>
+ * </ul>
+ * In both formats the state is written as the name of the {@code
+ * CurrentState} constant, for example {@code IN_PROGRESS}.
+ * </p>
+ *
+ * @author mac
+ * @see     TaskImporter
+ * @see     TaskExporter
+ * @since 1.1
+ */
+public enum TaskFormat {
+    CSV(new CsvTaskCodec()),
+    JSON_LINES(new JsonLinesTaskCodec());
+
+    private final TaskCodec codec;
+
+    TaskFormat(TaskCodec codec) {
+        this.codec = codec;
+    }
+
+    TaskCodec codec() {
+        return codec;
+    }
+
+    /**
+     * A method to pick the format of a file from its extension.
+     *
+     * @param path the file to be imported or exported
+     * @return {@code CSV} for {@code .csv} files and {@code JSON_LINES} for
+     * {@code .jsonl} or {@code .ndjson} files
+     * @throws IllegalArgumentException if the extension is not recognised
+     */
+    public static TaskFormat fromPath(Path path) {
+        Path fileName = path.getFileName();
+        String name = (fileName == null) ?
+                "" : fileName.toString().toLowerCase();
+        if (name.endsWith(".csv")) {
+            return CSV;
+        } else if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+            return JSON_LINES;
+        } else throw new IllegalArgumentException("File must end with .csv, "
+                + ".jsonl or .ndjson!");
+    }
+}
@@ -0,0 +1,224 @@
+package com.taskmanager.io;
+
+import com.taskmanager.core.Task;
+import com.taskmanager.core.TaskList;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The {@code TaskImporter} class reads tasks from a file into a {@code
+ * TaskList}.
+ *
+ * <p>
+ * The file is read as a pipeline. It is read in chunks that end on a record
+ * boundary, the chunks are parsed and validated on a pool of worker threads,
+ * and the resulting tasks are inserted into the {@code TaskList} in file
+ * order. Only a fixed number of chunks are in flight at once, so memory use
+ * does not depend on the size of the file. A single record may not be larger
+ * than 64 MiB.
+ * </p>
+ * <p>
+ * Here is how to import a file:
+ * <blockquote><pre>
+ *     Path path = Path.of("tasks.csv");
+ *     new TaskImporter(TaskFormat.fromPath(path)).importTasks(path, tasks);
+ * </pre></blockquote>
+ * </p>
+ *
+ * @author mac
+ * @see     TaskFormat
+ * @see     TaskExporter
+ * @since 1.1
+ */
+public class TaskImporter {
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    private static final int MAX_RECORD_SIZE = 64 << 20;
+
+    private final TaskCodec codec;
+    private final int chunkSize;
+    private final int parallelism;
+
+    //CONSTRUCTORS
+    public TaskImporter(TaskFormat format) {
+        this(format, DEFAULT_CHUNK_SIZE,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    public TaskImporter(TaskFormat format, int chunkSize, int parallelism) {
+        if (chunkSize > 0 && parallelism > 0) {
+            this.codec = format.codec();
+            this.chunkSize = chunkSize;
+            this.parallelism = parallelism;
+        } else throw new IllegalArgumentException("Chunk size and parallelism "
+                + "must be positive!");
+    }
+
+    //IMPORT OPERATIONS
+
+    /**
+     * A method to add every task in {@code source} to {@code taskList}.
+     * <p>
+     * Tasks that are already in {@code taskList} are skipped. The tasks are
+     * only added once the whole file has been read, so if a record is
+     * malformed the import stops and {@code taskList} is left unchanged.
+     * </p>
+     * @param source the file to be imported
+     * @param taskList the list the tasks are added to
+     * @return the number of tasks added
+     * @throws IOException if {@code source} cannot be read
+     * @throws IllegalArgumentException if a record is malformed, too large or
+     * does not describe a valid task
+     */
+    public int importTasks(Path source, TaskList taskList) throws IOException {
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        try (FileChannel channel = FileChannel.open(source,
+                StandardOpenOption.READ)) {
+            TaskList imported = new TaskList();
+            imported.addTasks(new Pipeline(channel, workers));
+            return taskList.addTasks(imported.getTaskList().iterator());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    //HELPER CLASSES
+
+    /**
+     * An iterator over the tasks in a file, which keeps up to two chunks per
+     * worker read ahead and parsing while earlier tasks are consumed.
+     */
+    private class Pipeline implements Iterator<Task> {
+        private final FileChannel channel;
+        private final ExecutorService workers;
+        private final Deque<Future<List<Task>>> pending = new ArrayDeque<>();
+
+        private Iterator<Task> current = Collections.emptyIterator();
+        private byte[] carry = new byte[0];
+        private long position = 0;
+        private boolean eof = false;
+
+        Pipeline(FileChannel channel, ExecutorService workers) {
+            this.channel = channel;
+            this.workers = workers;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                fill();
+                if (pending.isEmpty()) {
+                    return false;
+                }
+                current = await(pending.poll()).iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public Task next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        private void fill() {
+            try {
+                while (!eof && pending.size() < 2 * parallelism) {
+                    submitNextChunk();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * A private method to read the next chunk, ending on the last record
+         * boundary in it, and hand it to a worker to be parsed. The bytes
+         * after the boundary are carried over to the start of the next chunk.
+         */
+        private void submitNextChunk() throws IOException {
+            int limit = Math.max(chunkSize, MAX_RECORD_SIZE);
+            byte[] buf = Arrays.copyOf(carry,
+                    (int) Math.min(limit, Math.max(chunkSize,
+                            2L * carry.length)));
+            int len = carry.length;
+            int boundary;
+            while (true) {
+                int n = channel.read(ByteBuffer.wrap(buf, len,
+                        buf.length - len));
+                if (n < 0) {
+                    eof = true;
+                    boundary = len;
+                    break;
+                }
+                len += n;
+                if (len < buf.length) {
+                    continue;
+                }
+
+                boundary = codec.lastBoundary(buf, len);
+                if (boundary > 0) {
+                    break;
+                }
+                //A single record is larger than the buffer
+                if (buf.length >= limit) {
+                    throw new IllegalArgumentException("Record larger than "
+                            + "%d bytes at byte %d!".formatted(limit,
+                            position));
+                }
+                buf = Arrays.copyOf(buf,
+                        (int) Math.min(limit, 2L * buf.length));
+            }
+
+            carry = Arrays.copyOfRange(buf, boundary, len);
+            if (boundary == 0) {
+                return;
+            }
+
+            byte[] chunk = buf;
+            int end = boundary;
+            long offset = position;
+            position += boundary;
+            pending.add(workers.submit(() -> codec.parseChunk(
+                    new String(chunk, 0, end, StandardCharsets.UTF_8),
+                    offset)));
+        }
+
+        private List<Task> await(Future<List<Task>> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedIOException(
+                        new InterruptedIOException("Import interrupted!"));
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                } else if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+}